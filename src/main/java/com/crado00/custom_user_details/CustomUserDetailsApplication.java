@@ -2,8 +2,10 @@ package com.crado00.custom_user_details;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CustomUserDetailsApplication {
 
 	public static void main(String[] args) {
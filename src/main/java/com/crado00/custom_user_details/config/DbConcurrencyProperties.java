@@ -0,0 +1,26 @@
+package com.crado00.custom_user_details.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드의 동시 DB 접근 제한 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.db-concurrency")
+public class DbConcurrencyProperties {
+
+    /**
+     * 동시에 커넥션을 사용할 수 있는 요청 수 (미지정 시 커넥션 풀 최대 크기)
+     */
+    private Integer permits;
+
+    /**
+     * 허가를 기다리는 최대 시간
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
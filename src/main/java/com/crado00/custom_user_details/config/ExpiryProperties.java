@@ -0,0 +1,63 @@
+package com.crado00.custom_user_details.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계정/자격증명 만료 정책 및 백그라운드 스위퍼 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.expiry")
+public class ExpiryProperties {
+
+    /**
+     * 신규 계정의 유효 기간 (null이면 만료 없음)
+     */
+    private Duration accountValidity;
+
+    /**
+     * 신규 자격증명(패스워드)의 유효 기간 (null이면 만료 없음)
+     */
+    private Duration credentialsValidity;
+
+    private final Sweep sweep = new Sweep();
+
+    @Getter
+    @Setter
+    public static class Sweep {
+
+        /**
+         * 스위퍼 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 실행 간격 (이전 실행 종료 후 기준)
+         */
+        private Duration interval = Duration.ofMinutes(5);
+
+        /**
+         * 애플리케이션 시작 후 첫 실행까지의 지연
+         */
+        private Duration initialDelay = Duration.ofMinutes(1);
+
+        /**
+         * 한 번에 처리할 사용자 수 (키셋 페이지 크기)
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 청크 사이 대기 시간 (로그인 트래픽과 DB 경쟁 방지)
+         */
+        private Duration pauseBetweenChunks = Duration.ofMillis(200);
+
+        /**
+         * 1회 실행당 최대 청크 수 (남은 구간은 체크포인트부터 다음 실행에서 이어감)
+         */
+        private int maxChunksPerRun = 100;
+    }
+}
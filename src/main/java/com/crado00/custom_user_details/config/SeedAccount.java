@@ -0,0 +1,32 @@
+package com.crado00.custom_user_details.config;
+
+import com.crado00.custom_user_details.model.Role;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 테스트용 기본 계정 정의
+ * DataInitializer와 빌드 시 해시 생성(SeedHashGenerator)이 같은 목록을 사용
+ */
+public record SeedAccount(String username, String rawPassword, String email, String fullName,
+                          Set<Role> roles, boolean enabled, boolean accountNonLocked, String label) {
+
+    public static final List<SeedAccount> ALL = List.of(
+            // 관리자 계정
+            new SeedAccount("admin", "admin123", "admin@example.com", "관리자",
+                    Set.of(Role.ADMIN, Role.MANAGER, Role.USER), true, true, "👨‍💻 관리자 계정"),
+            // 매니저 계정
+            new SeedAccount("manager", "manager123", "manager@example.com", "매니저",
+                    Set.of(Role.MANAGER, Role.USER), true, true, "👨‍💼 매니저 계정"),
+            // 일반 사용자 계정
+            new SeedAccount("user", "user123", "user@example.com", "일반 사용자",
+                    Set.of(Role.USER), true, true, "👤 일반 사용자 계정"),
+            // 비활성화된 계정 (테스트용)
+            new SeedAccount("disabled", "disabled123", "disabled@example.com", "비활성화된 사용자",
+                    Set.of(Role.USER), false, true, "❌ 비활성화 계정"),
+            // 잠긴 계정 (테스트용)
+            new SeedAccount("locked", "locked123", "locked@example.com", "잠긴 사용자",
+                    Set.of(Role.USER), true, false, "🔒 잠긴 계정")
+    );
+}
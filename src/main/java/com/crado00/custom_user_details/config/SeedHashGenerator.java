@@ -0,0 +1,40 @@
+package com.crado00.custom_user_details.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * 빌드 시 기본 계정의 BCrypt 해시를 미리 계산 (Gradle generateSeedHashes 태스크에서 실행)
+ * 결과는 클래스패스의 seed-hashes.properties로 포함되어 DataInitializer가 시작 시 인코딩을 건너뜀
+ */
+public final class SeedHashGenerator {
+
+    public static final String RESOURCE_NAME = "seed-hashes.properties";
+
+    private SeedHashGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("사용법: SeedHashGenerator <출력 파일 경로>");
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        Properties hashes = new Properties();
+        for (SeedAccount account : SeedAccount.ALL) {
+            hashes.setProperty(account.username(), encoder.encode(account.rawPassword()));
+        }
+
+        Path output = Path.of(args[0]);
+        Files.createDirectories(output.getParent());
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            hashes.store(writer, "Precomputed BCrypt hashes for seed accounts");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.crado00.custom_user_details.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시작 시 기본 계정 생성 방식
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    private Mode mode = Mode.ENCODE;
+
+    public enum Mode {
+        /**
+         * 시작 시 패스워드를 BCrypt로 인코딩 (기본)
+         */
+        ENCODE,
+        /**
+         * 빌드 시 계산된 해시(seed-hashes.properties) 사용, 없는 계정만 인코딩
+         */
+        PRECOMPUTED,
+        /**
+         * 기본 계정을 생성하지 않음
+         */
+        SKIP
+    }
+}
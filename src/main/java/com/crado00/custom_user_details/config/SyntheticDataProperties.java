@@ -0,0 +1,59 @@
+package com.crado00.custom_user_details.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 용량 테스트용 대량 사용자 생성 설정
+ * 예) --app.synthetic.count=1000000 --app.synthetic.seed=42
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.synthetic")
+public class SyntheticDataProperties {
+
+    /**
+     * 생성할 사용자 수 (0이면 생성하지 않음)
+     */
+    private int count = 0;
+
+    /**
+     * 난수 시드 (같은 시드와 설정이면 같은 데이터 생성)
+     */
+    private long seed = 42L;
+
+    /**
+     * 사용자명 접두사 (사용자명: 접두사 + 7자리 번호)
+     */
+    private String usernamePrefix = "synthetic";
+
+    /**
+     * 서로 다른 패스워드 수 (패스워드마다 해시는 한 번만 계산)
+     */
+    private int distinctPasswords = 8;
+
+    /**
+     * 병렬 삽입 스레드 수 (커넥션 풀 크기보다 작게 유지)
+     */
+    private int threads = 4;
+
+    /**
+     * 트랜잭션/배치 단위 사용자 수
+     */
+    private int chunkSize = 5_000;
+
+    /**
+     * 가입 시각 분포 기간 (기준 시각 이전)
+     */
+    private Duration history = Duration.ofDays(730);
+
+    /**
+     * 기준 시각 (가입/로그인 시각은 이 시각 이전으로 생성)
+     * 실행 날짜와 관계없이 같은 데이터가 나오도록 고정값 사용
+     */
+    private LocalDateTime referenceTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+}
@@ -0,0 +1,241 @@
+package com.crado00.custom_user_details.config;
+
+import com.crado00.custom_user_details.model.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 용량 테스트용 대량 사용자 생성기 (app.synthetic.count > 0일 때 시작 시 실행)
+ * 사용자마다 (시드, 번호)로 난수를 만들어 스레드 수/실행 순서와 관계없이 같은 데이터를 생성
+ * ID도 번호로 정해 지정하므로 (시작 시 기존 사용자가 같다면) ID 순서의 내보내기/만료 스위프 순서도 매번 같음
+ * 패스워드 해시는 서로 다른 패스워드마다 한 번만 계산하고, 청크 단위 JDBC 배치로 병렬 삽입
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SyntheticUserGenerator implements CommandLineRunner {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, username, password, email, full_name, enabled, account_non_expired,
+                               account_non_locked, credentials_non_expired, created_at, last_login_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ROLE = """
+            INSERT INTO user_roles (user_id, role) VALUES (?, ?)
+            """;
+
+    // 이메일 도메인과 가중치
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "kakao.com", "outlook.com", "example.com"};
+    private static final int[] DOMAIN_WEIGHTS = {40, 25, 10, 8, 7, 10};
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] NAME_SYLLABLES = {"민", "서", "지", "현", "우", "준", "하", "윤", "수", "연", "도", "은"};
+
+    // ID 구간 예약 중 가입하는 사용자를 위해 기존 최대 ID 뒤에 비워두는 ID 수
+    private static final long ID_GAP = 1_000;
+
+    // 번호별 난수 시드를 흩뜨리기 위한 상수 (골든 비율)
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final SyntheticDataProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int count = properties.getCount();
+        if (count <= 0) {
+            return;
+        }
+
+        log.info("🏭 대량 사용자 생성 시작: {}명 (시드 {}, 스레드 {}, 청크 {})",
+                count, properties.getSeed(), properties.getThreads(), properties.getChunkSize());
+        long start = System.nanoTime();
+
+        List<String> passwordHashes = encodeDistinctPasswords();
+        LocalDateTime referenceTime = properties.getReferenceTime();
+        long baseId = reserveIds(count);
+
+        AtomicLong inserted = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < count; from += properties.getChunkSize()) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(count, from + properties.getChunkSize());
+                chunks.add(executor.submit(() -> {
+                    transactionTemplate.executeWithoutResult(status ->
+                            insertChunk(chunkFrom, chunkTo, baseId, passwordHashes, referenceTime));
+                    logProgress(inserted.addAndGet(chunkTo - chunkFrom), chunkTo - chunkFrom, count);
+                }));
+            }
+
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 사용자 생성 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("✅ 대량 사용자 생성 완료: {}명, {}초", count, elapsed.toSeconds());
+    }
+
+    /**
+     * 서로 다른 패스워드마다 한 번만 BCrypt 인코딩 (패스워드 k의 원문: 접두사-pw-k)
+     */
+    private List<String> encodeDistinctPasswords() {
+        return IntStream.range(0, properties.getDistinctPasswords())
+                .parallel()
+                .mapToObj(k -> passwordEncoder.encode(properties.getUsernamePrefix() + "-pw-" + k))
+                .toList();
+    }
+
+    /**
+     * 기존 최대 ID 뒤로 여유 구간(ID_GAP)을 두고 count개의 ID 구간을 예약
+     * MAX(id) 조회와 시퀀스 이동 사이에 가입한 사용자는 여유 구간의 ID를 받고,
+     * 이동 후 가입한 사용자는 예약 구간 뒤의 ID를 받음
+     * 그 사이 가입이 여유 구간을 넘었다면 삽입 전에 실패 처리
+     *
+     * @return 구간 직전 ID (번호 index의 사용자 ID는 baseId + index + 1)
+     */
+    private long reserveIds(int count) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        long baseId = (maxId != null ? maxId : 0L) + ID_GAP;
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (baseId + count + 1));
+
+        Long taken = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id BETWEEN ? AND ?",
+                Long.class, baseId + 1, baseId + count);
+        if (taken != null && taken > 0) {
+            throw new IllegalStateException("예약한 ID 구간이 이미 사용 중입니다: " + (baseId + 1) + "~" + (baseId + count));
+        }
+        return baseId;
+    }
+
+    private void insertChunk(int from, int to, long baseId, List<String> passwordHashes,
+                             LocalDateTime referenceTime) {
+        List<Object[]> users = new ArrayList<>(to - from);
+        List<Object[]> roles = new ArrayList<>(to - from);
+
+        for (int index = from; index < to; index++) {
+            SplittableRandom random = new SplittableRandom(properties.getSeed() + (index + 1L) * GOLDEN_GAMMA);
+            long id = baseId + index + 1;
+            String username = String.format("%s%07d", properties.getUsernamePrefix(), index);
+
+            LocalDateTime createdAt = randomCreatedAt(random, referenceTime);
+            LocalDateTime lastLoginAt = randomLastLoginAt(random, createdAt, referenceTime);
+
+            users.add(new Object[]{
+                    id,
+                    username,
+                    passwordHashes.get(random.nextInt(passwordHashes.size())),
+                    username + "@" + pick(random, DOMAINS, DOMAIN_WEIGHTS),
+                    randomFullName(random),
+                    random.nextInt(100) >= 3,   // 97% 활성화
+                    true,
+                    random.nextInt(100) >= 2,   // 2% 잠김
+                    true,
+                    createdAt,
+                    lastLoginAt
+            });
+
+            for (Role role : randomRoles(random)) {
+                roles.add(new Object[]{id, role.name()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, users);
+        jdbcTemplate.batchUpdate(INSERT_ROLE, roles);
+    }
+
+    /**
+     * 권한 분포: USER 90%, MANAGER 8%, ADMIN 2%
+     */
+    private List<Role> randomRoles(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 2) {
+            return List.of(Role.ADMIN, Role.MANAGER, Role.USER);
+        }
+        if (roll < 10) {
+            return List.of(Role.MANAGER, Role.USER);
+        }
+        return List.of(Role.USER);
+    }
+
+    /**
+     * 가입 시각: 최근일수록 많아지도록 분포 (가입자 증가 추세)
+     */
+    private LocalDateTime randomCreatedAt(SplittableRandom random, LocalDateTime referenceTime) {
+        long historySeconds = properties.getHistory().toSeconds();
+        long ageSeconds = (long) (historySeconds * (1 - Math.sqrt(random.nextDouble())));
+        return referenceTime.minusSeconds(ageSeconds);
+    }
+
+    /**
+     * 마지막 로그인 시각: 25%는 로그인 기록 없음, 나머지는 최근에 몰리도록 분포
+     */
+    private LocalDateTime randomLastLoginAt(SplittableRandom random, LocalDateTime createdAt,
+                                            LocalDateTime referenceTime) {
+        if (random.nextInt(100) < 25) {
+            return null;
+        }
+        long activeSeconds = Duration.between(createdAt, referenceTime).toSeconds();
+        double recency = Math.pow(random.nextDouble(), 3);
+        return referenceTime.minusSeconds((long) (activeSeconds * recency));
+    }
+
+    private String randomFullName(SplittableRandom random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)]
+                + NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)];
+    }
+
+    private String pick(SplittableRandom random, String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * 10% 단위로 진행 상황 출력
+     */
+    private void logProgress(long inserted, int chunkSize, int count) {
+        long step = Math.max(1, count / 10);
+        if ((inserted - chunkSize) / step != inserted / step) {
+            log.info("📈 대량 사용자 생성 진행: {}/{}", inserted, count);
+        }
+    }
+}
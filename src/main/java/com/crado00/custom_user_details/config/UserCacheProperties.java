@@ -0,0 +1,71 @@
+package com.crado00.custom_user_details.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 노드별 사용자 캐시 및 아웃박스 기반 무효화 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 노드당 최대 캐시 항목 수
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * 캐시 항목 최대 보관 시간 (아웃박스 이벤트를 놓쳐도 이 시간 뒤에는 DB에서 다시 조회)
+     */
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    /**
+     * 존재하지 않는 식별자(네거티브 캐시) 보관 시간
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+    /**
+     * 네거티브 캐시 최대 항목 수 (가득 차면 새 항목은 저장하지 않음)
+     */
+    private int negativeMaxSize = 10_000;
+
+    /**
+     * 아웃박스 폴링 간격 (무효화 지연의 상한을 결정)
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번의 폴링에서 읽을 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * ID 공백(아직 커밋되지 않은 이벤트)을 기다리는 최대 시간
+     */
+    private Duration gapGrace = Duration.ofSeconds(5);
+
+    /**
+     * 무효화 지연 경고 임계값
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 이벤트 보존 기간
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * 오래된 이벤트 정리 간격
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,42 @@
+package com.crado00.custom_user_details.config;
+
+import com.crado00.custom_user_details.dto.ExportFormat;
+import com.crado00.custom_user_details.dto.UserExportFilter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 사용자 내보내기 설정 (HTTP / CLI 공통)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.export")
+public class UserExportProperties {
+
+    /**
+     * JDBC 커서 fetch size
+     */
+    private int fetchSize = 500;
+
+    /**
+     * CLI 출력 파일 경로 (설정된 경우에만 CLI 내보내기 실행)
+     * 표준 출력에는 로그와 SQL 출력이 섞이므로 "-"(표준 출력)는 허용하지 않음
+     */
+    private String output;
+
+    /**
+     * CLI 출력 형식
+     */
+    private ExportFormat format = ExportFormat.CSV;
+
+    /**
+     * CLI 필터
+     */
+    private UserExportFilter filter = new UserExportFilter();
+
+    /**
+     * CLI 내보내기 완료 후 애플리케이션 종료 여부
+     */
+    private boolean exitOnCompletion = true;
+}
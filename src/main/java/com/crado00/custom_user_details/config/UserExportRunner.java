@@ -0,0 +1,54 @@
+package com.crado00.custom_user_details.config;
+
+import com.crado00.custom_user_details.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CLI 사용자 내보내기
+ * 예) java -jar app.jar --spring.main.web-application-type=none
+ *         --app.export.output=users.csv --app.export.format=csv --app.export.filter.enabled=true
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.export", name = "output")
+public class UserExportRunner implements ApplicationRunner {
+
+    private final UserExportService userExportService;
+    private final UserExportProperties exportProperties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String output = exportProperties.getOutput();
+        if ("-".equals(output)) {
+            // 콘솔 로그, SQL 출력, 스케줄러 작업의 로그가 표준 출력에 섞여 결과 파일이 깨짐
+            throw new IllegalArgumentException(
+                    "app.export.output에 표준 출력(-)은 사용할 수 없습니다. 파일 경로를 지정하세요");
+        }
+        log.info("📤 CLI 사용자 내보내기 시작: {} ({})", output, exportProperties.getFormat());
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(output)))) {
+            userExportService.export(exportProperties.getFilter(), exportProperties.getFormat(), out);
+        }
+
+        if (exportProperties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
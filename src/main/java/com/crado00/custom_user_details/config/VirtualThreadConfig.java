@@ -0,0 +1,48 @@
+package com.crado00.custom_user_details.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true)
+ * 서블릿 요청, @Async, @Scheduled 작업은 Spring Boot가 가상 스레드로 실행하고,
+ * 여기서는 DB 동시 접근을 커넥션 풀 크기에 맞춘 세마포어로 제한
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor dbConcurrencyLimiter(ObjectProvider<DbConcurrencyProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof SemaphoreDataSource) {
+                    return bean;
+                }
+
+                DbConcurrencyProperties config = properties.getObject();
+                int permits = config.getPermits() != null ? config.getPermits() : poolSize(dataSource);
+                log.info("🧵 가상 스레드 모드: DB 동시 접근 {}개로 제한 ({})", permits, beanName);
+
+                return new SemaphoreDataSource(dataSource, permits, config.getAcquireTimeout());
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("커넥션 풀 크기를 알 수 없습니다. app.db-concurrency.permits를 지정하세요");
+    }
+}
@@ -4,6 +4,8 @@ import com.crado00.custom_user_details.dto.UserRegistrationDto;
 import com.crado00.custom_user_details.model.User;
 import com.crado00.custom_user_details.security.CustomUserDetails;
 import com.crado00.custom_user_details.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -17,6 +19,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -24,6 +27,7 @@ import java.util.List;
 public class MainController {
 
     private final UserService userService;
+    private final StaticPageCache staticPageCache;
 
     /**
      * 홈 페이지
@@ -46,17 +50,28 @@ public class MainController {
 
     /**
      * 로그인 페이지
+     * 메시지가 없는 기본 화면은 캐시된 압축 페이지로 응답
      */
     @GetMapping("/login")
-    public String login() {
+    public String login(Model model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (request.getParameterMap().isEmpty() && !model.containsAttribute("message")) {
+            staticPageCache.serve("login", Map.of(), request, response);
+            return null;
+        }
         return "login";
     }
 
     /**
      * 회원가입 페이지
+     * 빈 입력 폼은 캐시된 압축 페이지로 응답 (검증 오류는 POST 처리에서 렌더링)
      */
     @GetMapping("/register")
-    public String register(Model model) {
+    public String register(Model model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (request.getParameterMap().isEmpty()) {
+            staticPageCache.serve("register",
+                    Map.of("userRegistrationDto", new UserRegistrationDto()), request, response);
+            return null;
+        }
         model.addAttribute("userRegistrationDto", new UserRegistrationDto());
         return "register";
     }
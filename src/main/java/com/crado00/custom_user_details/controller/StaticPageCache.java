@@ -0,0 +1,226 @@
+package com.crado00.custom_user_details.controller;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 동적 요소가 없는 페이지(로그인/회원가입 기본 화면)를 한 번만 렌더링하여 보관
+ * 원본과 gzip 압축본을 강한 ETag와 함께 제공하고, If-None-Match 조건부 요청에는 304로 응답
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StaticPageCache {
+
+    private static final String HTML_CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    private final ThymeleafViewResolver viewResolver;
+
+    private final Map<String, CachedPage> pages = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 페이지 응답 (처음 요청 시 렌더링하여 캐시)
+     *
+     * @param model 최초 렌더링에 사용할 모델 (요청마다 달라지지 않는 값만)
+     */
+    public void serve(String viewName, Map<String, ?> model,
+                      HttpServletRequest request, HttpServletResponse response) throws Exception {
+        CachedPage page = pages.get(viewName);
+        if (page == null) {
+            page = render(viewName, model, request, response);
+            CachedPage existing = pages.putIfAbsent(viewName, page);
+            if (existing != null) {
+                page = existing;
+            }
+        }
+
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? page.gzipEtag() : page.etag();
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        byte[] body = gzip ? page.gzip() : page.identity();
+        response.setContentType(HTML_CONTENT_TYPE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private CachedPage render(String viewName, Map<String, ?> model,
+                              HttpServletRequest request, HttpServletResponse response) throws Exception {
+        View view = viewResolver.resolveViewName(viewName, request.getLocale());
+        if (view == null) {
+            throw new IllegalStateException("뷰를 찾을 수 없습니다: " + viewName);
+        }
+
+        CapturingResponse capture = new CapturingResponse(response);
+        view.render(model, request, capture);
+        byte[] identity = capture.toByteArray();
+        byte[] gzip = gzip(identity);
+
+        String hash = sha256(identity);
+        log.info("📄 정적 페이지 캐시: {} ({} bytes, gzip {} bytes)", viewName, identity.length, gzip.length);
+
+        return new CachedPage(identity, gzip, "\"" + hash + "\"", "\"" + hash + "-gz\"");
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 포함되어 있고 q=0이 아니면 true
+     */
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedPage(byte[] identity, byte[] gzip, String etag, String gzipEtag) {
+    }
+
+    /**
+     * 렌더링 결과를 메모리에 모으는 응답 래퍼
+     * 캐시된 HTML이 요청별 값(세션 ID URL 재작성, 헤더)에 오염되지 않도록 실제 응답에는 쓰지 않음
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private PrintWriter writer;
+        private ServletOutputStream outputStream;
+
+        CapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+            }
+            return writer;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) {
+                        buffer.write(b);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+        }
+
+        @Override
+        public void flushBuffer() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        byte[] toByteArray() {
+            flushBuffer();
+            return buffer.toByteArray();
+        }
+    }
+}
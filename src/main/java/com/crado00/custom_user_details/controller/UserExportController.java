@@ -0,0 +1,51 @@
+package com.crado00.custom_user_details.controller;
+
+import com.crado00.custom_user_details.dto.ExportFormat;
+import com.crado00.custom_user_details.dto.UserExportFilter;
+import com.crado00.custom_user_details.service.UserExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportController {
+
+    private final UserExportService userExportService;
+
+    /**
+     * 사용자 내보내기 (CSV / NDJSON)
+     * 결과를 응답 스트림에 바로 기록하므로 사용자 수와 관계없이 메모리 사용량이 일정함
+     */
+    @GetMapping("/admin/users/export")
+    public void export(@RequestParam(defaultValue = "csv") String format,
+                       UserExportFilter filter,
+                       HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        log.info("📤 사용자 내보내기 요청: {} - {}", exportFormat, filter);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"users." + exportFormat.getExtension() + "\"");
+
+        userExportService.export(filter, exportFormat, response.getOutputStream());
+    }
+}
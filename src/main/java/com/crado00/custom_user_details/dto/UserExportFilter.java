@@ -0,0 +1,23 @@
+package com.crado00.custom_user_details.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 내보내기 필터 (null인 조건은 적용하지 않음)
+ */
+@Data
+public class UserExportFilter {
+
+    private Boolean enabled;
+
+    private Boolean locked;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
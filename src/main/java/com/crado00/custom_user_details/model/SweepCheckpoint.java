@@ -0,0 +1,34 @@
+package com.crado00.custom_user_details.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 스위퍼의 진행 위치 (재시작 후 이어서 처리하기 위함)
+ */
+@Entity
+@Table(name = "sweep_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 마지막으로 처리한 사용자 ID (0이면 처음부터)
+    @Column(nullable = false)
+    private Long lastUserId;
+
+    private LocalDateTime updatedAt;
+}
@@ -48,6 +48,11 @@ public class User {
     @Column(nullable = false)
     private Boolean credentialsNonExpired = true;
 
+    // 만료 시각 (null이면 만료되지 않음, ExpirySweepService가 플래그에 반영)
+    private LocalDateTime accountExpiresAt;
+
+    private LocalDateTime credentialsExpireAt;
+
     // 권한 정보
     @ElementCollection(targetClass = Role.class, fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,44 @@
+package com.crado00.custom_user_details.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 이벤트 (트랜잭션 아웃박스)
+ * 사용자 변경과 같은 트랜잭션에서 기록되며, 각 노드가 폴링하여 로컬 캐시를 무효화
+ */
+@Entity
+@Table(name = "user_change_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserChangeType changeType;
+
+    // 노드 간 시계 차이가 지연 측정에 섞이지 않도록 DB 시각으로 기록
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
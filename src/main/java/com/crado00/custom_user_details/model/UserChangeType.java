@@ -0,0 +1,11 @@
+package com.crado00.custom_user_details.model;
+
+/**
+ * 아웃박스에 기록되는 사용자 변경 유형
+ */
+public enum UserChangeType {
+    REGISTERED,
+    STATUS_CHANGED,
+    ROLES_CHANGED,
+    EXPIRED
+}
@@ -0,0 +1,30 @@
+package com.crado00.custom_user_details.repository;
+
+import com.crado00.custom_user_details.model.SweepCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SweepCheckpointRepository extends JpaRepository<SweepCheckpoint, String> {
+
+    /**
+     * 체크포인트 조회 (쓰기 잠금, 여러 노드가 같은 구간을 동시에 처리하지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<SweepCheckpoint> findByName(String name);
+
+    /**
+     * 처음 위치(0)의 체크포인트 생성
+     * 다른 노드가 먼저 생성했으면 기본 키 위반이 발생하므로 호출하는 쪽에서 무시
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sweep_checkpoints (name, last_user_id) VALUES (:name, 0)", nativeQuery = true)
+    int insertInitial(@Param("name") String name);
+}
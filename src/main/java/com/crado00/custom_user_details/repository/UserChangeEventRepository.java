@@ -0,0 +1,52 @@
+package com.crado00.custom_user_details.repository;
+
+import com.crado00.custom_user_details.model.UserChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserChangeEventRepository extends JpaRepository<UserChangeEvent, Long> {
+
+    /**
+     * afterId 다음 이벤트를 ID 순으로 조회
+     */
+    @Query("SELECT e FROM UserChangeEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<UserChangeEvent> findBatchAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 가장 최근 이벤트 ID (이벤트가 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM UserChangeEvent e")
+    Long findMaxId();
+
+    /**
+     * ID 구간 (fromId, toId] 내 만료 대상 사용자에 대한 EXPIRED 이벤트 일괄 기록
+     * ExpirySweepService의 구간 UPDATE 직전에 같은 트랜잭션에서 호출
+     * 기록 시각은 스위프 시작 시각이 아닌 삽입 시점의 DB 시각
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_change_outbox (user_id, username, email, change_type, created_at) " +
+            "SELECT id, username, email, 'EXPIRED', LOCALTIMESTAMP FROM users " +
+            "WHERE id > :fromId AND id <= :toId " +
+            "AND ((account_non_expired = TRUE AND account_expires_at <= :now) " +
+            "OR (credentials_non_expired = TRUE AND credentials_expire_at <= :now))",
+            nativeQuery = true)
+    int insertExpiredEventsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                   @Param("now") LocalDateTime now);
+
+    /**
+     * 보존 기간이 지난 이벤트 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserChangeEvent e WHERE e.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
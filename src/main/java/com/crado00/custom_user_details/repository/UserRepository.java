@@ -1,11 +1,16 @@
 package com.crado00.custom_user_details.repository;
 
 import com.crado00.custom_user_details.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +29,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 사용자명이나 이메일로 사용자 조회
      */
+    @Transactional(readOnly = true)
     @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier")
     Optional<User> findByUsernameOrEmail(@Param("identifier") String identifier);
 
@@ -41,5 +47,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 활성화된 사용자만 조회
      */
     @Query("SELECT u FROM User u WHERE u.enabled = true")
-    java.util.List<User> findAllEnabledUsers();
+    List<User> findAllEnabledUsers();
+
+    /**
+     * 키셋 페이지네이션: afterId 다음 사용자 ID를 오름차순으로 조회
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * ID 구간 (fromId, toId] 내 만료 시각이 지난 계정을 만료 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.accountNonExpired = false " +
+            "WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND u.accountNonExpired = true AND u.accountExpiresAt <= :now")
+    int expireAccountsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * ID 구간 (fromId, toId] 내 만료 시각이 지난 자격증명을 만료 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.credentialsNonExpired = false " +
+            "WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND u.credentialsNonExpired = true AND u.credentialsExpireAt <= :now")
+    int expireCredentialsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                 @Param("now") LocalDateTime now);
 }
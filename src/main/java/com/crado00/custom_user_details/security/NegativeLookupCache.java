@@ -0,0 +1,114 @@
+package com.crado00.custom_user_details.security;
+
+import com.crado00.custom_user_details.config.UserCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 존재하지 않는 로그인 식별자 캐시 (짧은 TTL, 크기 제한)
+ * 사용자명/이메일 열거 시도나 오타가 매번 DB 조회로 이어지지 않도록 함
+ * 해당 사용자명/이메일로 회원가입이 일어나면 forget으로 제거
+ * TTL이 모두 같으므로 기록 순서가 곧 만료 순서 - 가득 차면 가장 오래된 항목을 O(1)로 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class NegativeLookupCache {
+
+    private final UserCacheProperties properties;
+
+    // 식별자 → 만료 시각 (System.nanoTime 기준)
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+    // 기록 순서 (오래된 것부터), 쓰기는 lock 안에서만
+    private final Deque<Entry> insertionOrder = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // forget이 일어날 때마다 증가 (조회 중 가입된 식별자를 다시 넣지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 존재하지 않는 식별자로 기록되어 있는지 확인
+     */
+    public boolean isKnownMissing(String identifier) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Long expiresAt = expiries.get(identifier);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt >= 0) {
+            expiries.remove(identifier, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 세대
+     * DB 조회 전에 읽어두고 markMissing에 전달
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 존재하지 않는 식별자로 기록
+     * 만료된 항목을 앞에서부터 정리하고, 그래도 가득 찼으면 가장 오래된 항목을 밀어냄
+     * 조회 이후 forget이 있었으면 기록하지 않음
+     */
+    public void markMissing(String identifier, long expectedGeneration) {
+        if (!properties.isEnabled() || properties.getNegativeMaxSize() <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Long expiresAt = now + properties.getNegativeTtl().toNanos();
+
+        lock.lock();
+        try {
+            Entry oldest;
+            while ((oldest = insertionOrder.peekFirst()) != null
+                    && (now - oldest.expiresAt() >= 0 || insertionOrder.size() >= properties.getNegativeMaxSize())) {
+                insertionOrder.pollFirst();
+                // 이미 forget되었거나 다시 기록된 식별자는 그대로 둠
+                expiries.remove(oldest.identifier(), oldest.expiresAt());
+            }
+
+            expiries.put(identifier, expiresAt);
+            insertionOrder.addLast(new Entry(identifier, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+
+        if (generation.get() != expectedGeneration) {
+            expiries.remove(identifier, expiresAt);
+        }
+    }
+
+    /**
+     * 식별자 제거 (회원가입 시 사용자명과 이메일)
+     */
+    public void forget(String... identifiers) {
+        generation.incrementAndGet();
+        for (String identifier : identifiers) {
+            if (identifier != null) {
+                expiries.remove(identifier);
+            }
+        }
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+
+    private record Entry(String identifier, long expiresAt) {
+    }
+}
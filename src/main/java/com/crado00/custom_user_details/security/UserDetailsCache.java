@@ -0,0 +1,103 @@
+package com.crado00.custom_user_details.security;
+
+import com.crado00.custom_user_details.config.UserCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 CustomUserDetails 캐시 (로그인 식별자 → UserDetails)
+ * 다른 노드의 변경은 아웃박스 폴러가 evictUsers로 반영
+ * 놓친 이벤트가 있어도 오래된 정보가 계속 남지 않도록 항목은 maxAge가 지나면 만료
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private final UserCacheProperties properties;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가 (조회 중 무효화된 값을 캐시에 넣지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시 조회 (없으면 null)
+     */
+    public CustomUserDetails get(String identifier) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        Entry entry = entries.get(identifier);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            entries.remove(identifier, entry);
+            return null;
+        }
+        return entry.userDetails();
+    }
+
+    /**
+     * 현재 무효화 세대
+     * DB 조회 전에 읽어두고 put에 전달
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시 저장
+     * 조회 이후 무효화가 있었다면 저장하지 않음
+     */
+    public void put(String identifier, CustomUserDetails userDetails, long expectedGeneration) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (entries.size() >= properties.getMaxSize()) {
+            evictOne();
+        }
+        Entry entry = new Entry(userDetails, System.nanoTime() + properties.getMaxAge().toNanos());
+        entries.put(identifier, entry);
+
+        // 저장과 무효화가 겹친 경우 방금 넣은 값을 되돌림
+        if (generation.get() != expectedGeneration) {
+            entries.remove(identifier, entry);
+        }
+    }
+
+    /**
+     * 주어진 사용자들의 캐시 항목을 모두 제거 (사용자명/이메일 키 모두)
+     */
+    public void evictUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.values().removeIf(entry -> userIds.contains(entry.userDetails().getUserId()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 캐시 항목 (만료 시각은 System.nanoTime 기준)
+     */
+    private record Entry(CustomUserDetails userDetails, long expiresAt) {
+    }
+}
@@ -3,25 +3,40 @@ package com.crado00.custom_user_details.service;
 import com.crado00.custom_user_details.model.User;
 import com.crado00.custom_user_details.repository.UserRepository;
 import com.crado00.custom_user_details.security.CustomUserDetails;
+import com.crado00.custom_user_details.security.NegativeLookupCache;
+import com.crado00.custom_user_details.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Spring Security에서 사용자 정보를 로드하는 서비스
  * 데이터베이스에서 사용자 정보를 조회하여 UserDetails로 변환
+ * 조회 결과는 노드 로컬 UserDetailsCache에 보관 (변경 시 아웃박스로 무효화)
+ * 동시 조회는 하나로 합치고, 존재하지 않는 식별자는 NegativeLookupCache로 짧게 기억
+ * (대기 중인 호출이 커넥션을 잡지 않도록 서비스 레벨 트랜잭션 없이 리포지토리 조회만 트랜잭션으로 실행)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final NegativeLookupCache negativeLookupCache;
+
+    // 진행 중인 조회 (정규화된 식별자 → 결과)
+    private final Map<String, CompletableFuture<Optional<CustomUserDetails>>> inFlightLookups =
+            new ConcurrentHashMap<>();
 
     /**
      * 사용자명(또는 이메일)으로 사용자 정보를 로드
@@ -34,24 +49,90 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("🔍 사용자 조회 시도: {}", username);
 
-        // 사용자명이나 이메일로 사용자 조회
-        User user = userRepository.findByUsernameOrEmail(username)
-                .orElseThrow(() -> {
-                    log.warn("❌ 사용자를 찾을 수 없음: {}", username);
-                    return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
-                });
+        String identifier = normalize(username);
 
-        log.debug("✅ 사용자 조회 성공: {} (ID: {})", user.getUsername(), user.getId());
+        CustomUserDetails cached = userDetailsCache.get(identifier);
+        if (cached != null) {
+            log.debug("⚡ 캐시에서 사용자 조회: {}", cached.getUsername());
+            return cached;
+        }
+
+        if (negativeLookupCache.isKnownMissing(identifier)) {
+            log.debug("🚫 존재하지 않는 식별자 (네거티브 캐시): {}", identifier);
+            throw notFound(identifier);
+        }
+
+        // 사용자명이나 이메일로 사용자 조회
+        CustomUserDetails userDetails = lookup(identifier)
+                .orElseThrow(() -> notFound(identifier));
 
-        // User Entity를 CustomUserDetails로 래핑하여 반환
-        CustomUserDetails userDetails = new CustomUserDetails(user);
+        log.debug("✅ 사용자 조회 성공: {} (ID: {})", userDetails.getUsername(), userDetails.getUserId());
 
         // 로그로 사용자 상태 확인
-        logUserStatus(user);
+        logUserStatus(userDetails.getUser());
 
         return userDetails;
     }
 
+    /**
+     * 같은 식별자에 대한 동시 조회를 하나의 DB 조회로 합침
+     * 먼저 도착한 호출이 조회와 캐시 갱신을 맡고, 나머지는 그 결과를 공유
+     */
+    private Optional<CustomUserDetails> lookup(String identifier) {
+        CompletableFuture<Optional<CustomUserDetails>> call = new CompletableFuture<>();
+        CompletableFuture<Optional<CustomUserDetails>> inFlight = inFlightLookups.putIfAbsent(identifier, call);
+        if (inFlight != null) {
+            log.debug("🔗 진행 중인 조회 결과 공유: {}", identifier);
+            return await(inFlight);
+        }
+
+        // 조회 도중 무효화/회원가입이 일어나면 결과를 캐시에 넣지 않도록 세대를 먼저 기록
+        long cacheGeneration = userDetailsCache.generation();
+        long negativeGeneration = negativeLookupCache.generation();
+
+        try {
+            Optional<CustomUserDetails> userDetails = userRepository.findByUsernameOrEmail(identifier)
+                    .map(CustomUserDetails::new);
+
+            if (userDetails.isPresent()) {
+                userDetailsCache.put(identifier, userDetails.get(), cacheGeneration);
+            } else {
+                negativeLookupCache.markMissing(identifier, negativeGeneration);
+            }
+
+            call.complete(userDetails);
+            return userDetails;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(identifier, call);
+        }
+    }
+
+    private Optional<CustomUserDetails> await(CompletableFuture<Optional<CustomUserDetails>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 키 및 조회에 사용할 식별자 (앞뒤 공백 제거)
+     */
+    private String normalize(String username) {
+        return username == null ? "" : username.trim();
+    }
+
+    private UsernameNotFoundException notFound(String identifier) {
+        log.warn("❌ 사용자를 찾을 수 없음: {}", identifier);
+        return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + identifier);
+    }
+
     /**
      * 사용자 상태를 로그로 출력 (디버깅용)
      */
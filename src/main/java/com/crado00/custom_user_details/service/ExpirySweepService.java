@@ -0,0 +1,142 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.ExpiryProperties;
+import com.crado00.custom_user_details.model.SweepCheckpoint;
+import com.crado00.custom_user_details.repository.SweepCheckpointRepository;
+import com.crado00.custom_user_details.repository.UserChangeEventRepository;
+import com.crado00.custom_user_details.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계정/자격증명 만료 스위퍼
+ * users 테이블을 키셋 페이지 단위로 순회하며 만료 시각이 지난 사용자의 플래그를 일괄 갱신
+ * 로그인 시점에는 추가 검사 없이 기존 플래그만 사용
+ * 변경된 사용자는 같은 트랜잭션에서 아웃박스에 기록되어 각 노드의 캐시가 무효화됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.expiry.sweep", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpirySweepService {
+
+    static final String CHECKPOINT_NAME = "expiry-sweep";
+
+    private final UserRepository userRepository;
+    private final SweepCheckpointRepository checkpointRepository;
+    private final UserChangeEventRepository eventRepository;
+    private final ExpiryProperties expiryProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 체크포인트부터 청크 단위로 만료 처리
+     * 청크마다 별도 트랜잭션으로 커밋하고, 청크 사이에는 대기하여 DB 부하를 제한
+     */
+    @Scheduled(fixedDelayString = "${app.expiry.sweep.interval:PT5M}",
+            initialDelayString = "${app.expiry.sweep.initial-delay:PT1M}")
+    public void sweep() {
+        ExpiryProperties.Sweep config = expiryProperties.getSweep();
+        LocalDateTime now = LocalDateTime.now();
+        ensureCheckpoint();
+
+        int chunks = 0;
+        int expiredAccounts = 0;
+        int expiredCredentials = 0;
+
+        while (chunks < config.getMaxChunksPerRun()) {
+            ChunkResult result = transactionTemplate.execute(status -> sweepChunk(now, config.getChunkSize()));
+            chunks++;
+            expiredAccounts += result.expiredAccounts();
+            expiredCredentials += result.expiredCredentials();
+
+            if (result.reachedEnd() || !pause(config.getPauseBetweenChunks())) {
+                break;
+            }
+        }
+
+        if (expiredAccounts > 0 || expiredCredentials > 0) {
+            log.info("⏳ 만료 스위프 완료: 청크 {}개, 계정 만료 {}건, 자격증명 만료 {}건",
+                    chunks, expiredAccounts, expiredCredentials);
+        } else {
+            log.debug("⏳ 만료 스위프 완료: 청크 {}개, 변경 없음", chunks);
+        }
+    }
+
+    /**
+     * 체크포인트 행이 없으면 생성
+     * 잠글 행이 있어야 PESSIMISTIC_WRITE로 노드 간 동시 처리를 막을 수 있음
+     * (여러 노드가 동시에 생성하면 한 노드만 성공하고 나머지는 기존 행을 사용)
+     */
+    private void ensureCheckpoint() {
+        if (checkpointRepository.existsById(CHECKPOINT_NAME)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.insertInitial(CHECKPOINT_NAME));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("⏳ 스위프 체크포인트가 이미 생성됨: {}", CHECKPOINT_NAME);
+        }
+    }
+
+    /**
+     * 한 청크 처리: 다음 ID 구간을 구하고 구간 단위 UPDATE 후 체크포인트 저장
+     */
+    private ChunkResult sweepChunk(LocalDateTime now, int chunkSize) {
+        SweepCheckpoint checkpoint = checkpointRepository.findByName(CHECKPOINT_NAME)
+                .orElseThrow(() -> new IllegalStateException("스위프 체크포인트가 없습니다: " + CHECKPOINT_NAME));
+
+        Long fromId = checkpoint.getLastUserId();
+        List<Long> ids = userRepository.findIdsAfter(fromId, Limit.of(chunkSize));
+
+        int expiredAccounts = 0;
+        int expiredCredentials = 0;
+        boolean reachedEnd = ids.size() < chunkSize;
+
+        if (!ids.isEmpty()) {
+            Long toId = ids.get(ids.size() - 1);
+            // 플래그 변경 전에 대상 사용자를 아웃박스에 기록 (다른 노드의 캐시 무효화)
+            eventRepository.insertExpiredEventsInRange(fromId, toId, now);
+            expiredAccounts = userRepository.expireAccountsInRange(fromId, toId, now);
+            expiredCredentials = userRepository.expireCredentialsInRange(fromId, toId, now);
+            checkpoint.setLastUserId(toId);
+        }
+
+        // 테이블 끝에 도달하면 다음 실행은 처음부터 다시 순회
+        if (reachedEnd) {
+            checkpoint.setLastUserId(0L);
+        }
+        checkpoint.setUpdatedAt(now);
+        checkpointRepository.save(checkpoint);
+
+        return new ChunkResult(expiredAccounts, expiredCredentials, reachedEnd);
+    }
+
+    /**
+     * 청크 사이 대기 (인터럽트 시 false 반환)
+     */
+    private boolean pause(Duration pause) {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult(int expiredAccounts, int expiredCredentials, boolean reachedEnd) {
+    }
+}
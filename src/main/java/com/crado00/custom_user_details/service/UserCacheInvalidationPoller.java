@@ -0,0 +1,173 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.UserCacheProperties;
+import com.crado00.custom_user_details.model.UserChangeEvent;
+import com.crado00.custom_user_details.model.UserChangeType;
+import com.crado00.custom_user_details.repository.UserChangeEventRepository;
+import com.crado00.custom_user_details.security.NegativeLookupCache;
+import com.crado00.custom_user_details.security.UserDetailsCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 폴러
+ * 모든 노드가 각자 아웃박스를 읽어 로컬 UserDetailsCache를 배치 단위로 무효화
+ * 무효화 지연(이벤트 기록 시각 → 무효화 시각)을 DB 시각 기준으로 측정하여 노출
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserCacheInvalidationPoller {
+
+    private final UserChangeEventRepository eventRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final NegativeLookupCache negativeLookupCache;
+    private final UserCacheProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이 ID까지의 이벤트는 모두 처리됨
+    private volatile long cursor;
+
+    // 지금까지 본 가장 큰 이벤트 ID (지연 측정 중복 방지)
+    private volatile long highestSeenId;
+
+    // 커서 뒤의 ID 공백을 이 노드가 처음 발견한 위치와 시각 (System.nanoTime)
+    private long gapPosition = -1;
+    private long gapFirstSeenAt;
+
+    private volatile Duration lastLag = Duration.ZERO;
+    private volatile Duration maxLag = Duration.ZERO;
+
+    /**
+     * 시작 시점의 캐시는 비어 있으므로 기존 이벤트는 건너뜀
+     */
+    @PostConstruct
+    void initCursor() {
+        cursor = eventRepository.findMaxId();
+        highestSeenId = cursor;
+        log.debug("📮 아웃박스 폴러 시작 위치: {}", cursor);
+    }
+
+    /**
+     * 새 이벤트를 읽어 캐시 무효화
+     * 커밋 순서가 ID 순서와 다를 수 있으므로, ID 공백이 있으면 이 노드가 공백을 처음 본 뒤
+     * gapGrace 동안 커서를 그 앞에 둠 (같은 이벤트를 다시 읽어도 무효화는 멱등)
+     */
+    @Scheduled(fixedDelayString = "${app.user-cache.poll-interval:PT1S}")
+    public void poll() {
+        List<UserChangeEvent> events = eventRepository.findBatchAfter(cursor, Limit.of(properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = events.stream()
+                .map(UserChangeEvent::getUserId)
+                .collect(Collectors.toSet());
+        userDetailsCache.evictUsers(userIds);
+
+        // 다른 노드에서 가입된 사용자명/이메일은 네거티브 캐시에서 제거
+        events.stream()
+                .filter(event -> event.getChangeType() == UserChangeType.REGISTERED)
+                .forEach(event -> negativeLookupCache.forget(event.getUsername(), event.getEmail()));
+
+        recordLag(events, currentDatabaseTime());
+        advanceCursor(events);
+    }
+
+    /**
+     * 보존 기간이 지난 이벤트 정리 (모든 노드에서 실행되어도 안전)
+     */
+    @Scheduled(fixedDelayString = "${app.user-cache.purge-interval:PT10M}",
+            initialDelayString = "${app.user-cache.purge-interval:PT10M}")
+    public void purge() {
+        // 이벤트 기록 시각과 같은 DB 시계 기준으로 보존 기간 계산
+        int deleted = eventRepository.deleteCreatedBefore(currentDatabaseTime().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.debug("🧹 오래된 사용자 변경 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    /**
+     * 가장 최근 배치의 최대 무효화 지연
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    /**
+     * 시작 이후 관측된 최대 무효화 지연
+     */
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    private void recordLag(List<UserChangeEvent> events, LocalDateTime now) {
+        Duration batchLag = Duration.ZERO;
+        long highest = highestSeenId;
+
+        for (UserChangeEvent event : events) {
+            if (event.getId() <= highestSeenId) {
+                continue;
+            }
+            Duration lag = Duration.between(event.getCreatedAt(), now);
+            if (lag.compareTo(batchLag) > 0) {
+                batchLag = lag;
+            }
+            highest = Math.max(highest, event.getId());
+        }
+        highestSeenId = highest;
+
+        lastLag = batchLag;
+        if (batchLag.compareTo(maxLag) > 0) {
+            maxLag = batchLag;
+        }
+        if (batchLag.compareTo(properties.getMaxLag()) > 0) {
+            log.warn("⚠️ 캐시 무효화 지연 초과: {}ms (임계값 {}ms)",
+                    batchLag.toMillis(), properties.getMaxLag().toMillis());
+        }
+    }
+
+    private void advanceCursor(List<UserChangeEvent> events) {
+        long next = cursor;
+
+        for (UserChangeEvent event : events) {
+            boolean contiguous = event.getId() == next + 1;
+            if (!contiguous && !gapGraceElapsed(next)) {
+                break;
+            }
+            next = event.getId();
+        }
+        cursor = next;
+    }
+
+    /**
+     * position 바로 뒤의 공백을 처음 본 뒤 gapGrace가 지났는지 확인
+     * 이벤트의 기록 시각은 다른 노드나 오래된 값일 수 있으므로 이 노드의 단조 시계만 사용
+     */
+    private boolean gapGraceElapsed(long position) {
+        long now = System.nanoTime();
+        if (gapPosition != position) {
+            gapPosition = position;
+            gapFirstSeenAt = now;
+        }
+        return now - gapFirstSeenAt >= properties.getGapGrace().toNanos();
+    }
+
+    /**
+     * 이벤트 기록 시각과 같은 시계(DB)의 현재 시각
+     */
+    private LocalDateTime currentDatabaseTime() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+}
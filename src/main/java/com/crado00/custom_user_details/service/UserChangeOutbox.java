@@ -0,0 +1,62 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.model.UserChangeEvent;
+import com.crado00.custom_user_details.model.UserChangeType;
+import com.crado00.custom_user_details.repository.UserChangeEventRepository;
+import com.crado00.custom_user_details.security.NegativeLookupCache;
+import com.crado00.custom_user_details.security.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * 사용자 변경 이벤트를 아웃박스 테이블에 기록
+ * 반드시 사용자 변경과 같은 트랜잭션 안에서 호출해야 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserChangeOutbox {
+
+    private final UserChangeEventRepository eventRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final NegativeLookupCache negativeLookupCache;
+
+    /**
+     * 변경 이벤트 기록
+     * 다른 노드는 폴러로, 현재 노드는 커밋 직후 바로 캐시를 무효화
+     * 회원가입이면 사용자명/이메일을 네거티브 캐시에서도 제거
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User user, UserChangeType changeType) {
+        UserChangeEvent event = UserChangeEvent.builder()
+                .userId(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .changeType(changeType)
+                .build();
+
+        eventRepository.save(event);
+        log.debug("📮 사용자 변경 이벤트 기록: {} - {}", user.getUsername(), changeType);
+
+        Long userId = user.getId();
+        String username = user.getUsername();
+        String email = user.getEmail();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDetailsCache.evictUsers(Set.of(userId));
+                if (changeType == UserChangeType.REGISTERED) {
+                    negativeLookupCache.forget(username, email);
+                }
+            }
+        });
+    }
+}
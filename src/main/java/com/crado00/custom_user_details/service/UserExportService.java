@@ -0,0 +1,268 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.UserExportProperties;
+import com.crado00.custom_user_details.dto.ExportFormat;
+import com.crado00.custom_user_details.dto.UserExportFilter;
+import com.crado00.custom_user_details.model.Role;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 스트리밍 내보내기 (CSV / NDJSON)
+ * StatelessSession + 전방 전용 커서로 한 행씩 읽어 바로 출력하므로
+ * 테이블 크기와 관계없이 메모리 사용량이 일정함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "username", "email", "fullName", "enabled", "accountNonLocked",
+            "accountNonExpired", "credentialsNonExpired", "roles", "createdAt", "lastLoginAt"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final UserExportProperties exportProperties;
+
+    /**
+     * 필터 조건에 맞는 사용자를 ID 순으로 출력
+     * 출력 스트림은 flush만 하고 닫지 않음
+     *
+     * @return 내보낸 사용자 수
+     */
+    public long export(UserExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             RowWriter writer = createWriter(format, out)) {
+
+            // 커서 기반 조회를 위해 읽기 전용 트랜잭션 안에서 실행
+            session.doWork(connection -> connection.setReadOnly(true));
+            Transaction transaction = session.beginTransaction();
+
+            long count = 0;
+            try (ScrollableResults<Object[]> results = createQuery(session, filter).scroll(ScrollMode.FORWARD_ONLY)) {
+                ExportRow current = null;
+
+                // 권한 조인으로 사용자당 여러 행이 오므로 연속된 같은 ID를 하나로 합침
+                while (results.next()) {
+                    Object[] row = results.get();
+                    Long id = (Long) row[0];
+
+                    if (current == null || !current.id().equals(id)) {
+                        if (current != null) {
+                            writer.write(current);
+                            count++;
+                        }
+                        current = ExportRow.from(row);
+                    }
+                    if (row[10] != null) {
+                        current.roles().add((Role) row[10]);
+                    }
+                }
+
+                if (current != null) {
+                    writer.write(current);
+                    count++;
+                }
+            }
+            transaction.commit();
+
+            log.info("📤 사용자 내보내기 완료: {}건 ({})", count, format);
+            return count;
+        }
+    }
+
+    private SelectionQuery<Object[]> createQuery(StatelessSession session, UserExportFilter filter) {
+        StringBuilder hql = new StringBuilder("""
+                SELECT u.id, u.username, u.email, u.fullName, u.enabled, u.accountNonLocked,
+                       u.accountNonExpired, u.credentialsNonExpired, u.createdAt, u.lastLoginAt, r
+                FROM User u LEFT JOIN u.roles r
+                WHERE 1 = 1
+                """);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (filter.getEnabled() != null) {
+            hql.append(" AND u.enabled = :enabled");
+            parameters.put("enabled", filter.getEnabled());
+        }
+        if (filter.getLocked() != null) {
+            hql.append(" AND u.accountNonLocked = :accountNonLocked");
+            parameters.put("accountNonLocked", !filter.getLocked());
+        }
+        if (filter.getCreatedFrom() != null) {
+            hql.append(" AND u.createdAt >= :createdFrom");
+            parameters.put("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            hql.append(" AND u.createdAt < :createdTo");
+            parameters.put("createdTo", filter.getCreatedTo());
+        }
+        hql.append(" ORDER BY u.id");
+
+        SelectionQuery<Object[]> query = session.createSelectionQuery(hql.toString(), Object[].class)
+                .setFetchSize(exportProperties.getFetchSize())
+                .setReadOnly(true);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private RowWriter createWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case NDJSON -> new NdjsonRowWriter(objectMapper, out);
+        };
+    }
+
+    /**
+     * 내보내기 한 행 (사용자 한 명)
+     */
+    private record ExportRow(Long id, String username, String email, String fullName,
+                             Boolean enabled, Boolean accountNonLocked, Boolean accountNonExpired,
+                             Boolean credentialsNonExpired, LocalDateTime createdAt, LocalDateTime lastLoginAt,
+                             Set<Role> roles) {
+
+        static ExportRow from(Object[] row) {
+            return new ExportRow((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (Boolean) row[4], (Boolean) row[5], (Boolean) row[6], (Boolean) row[7],
+                    (LocalDateTime) row[8], (LocalDateTime) row[9], EnumSet.noneOf(Role.class));
+        }
+
+        String rolesAsString() {
+            return roles.stream().map(Role::name).collect(Collectors.joining("|"));
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+
+        void write(ExportRow row) throws IOException;
+
+        /**
+         * 버퍼를 비움 (하위 출력 스트림은 닫지 않음)
+         */
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            writeLine(new String[]{
+                    String.valueOf(row.id()), row.username(), row.email(), row.fullName(),
+                    String.valueOf(row.enabled()), String.valueOf(row.accountNonLocked()),
+                    String.valueOf(row.accountNonExpired()), String.valueOf(row.credentialsNonExpired()),
+                    row.rolesAsString(), format(row.createdAt()), format(row.lastLoginAt())
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        private static String format(LocalDateTime value) {
+            return value != null ? value.toString() : null;
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 객체 사이 기본 구분자(공백) 대신 직접 줄바꿈을 출력
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeStringField("username", row.username());
+            generator.writeStringField("email", row.email());
+            generator.writeStringField("fullName", row.fullName());
+            generator.writeBooleanField("enabled", row.enabled());
+            generator.writeBooleanField("accountNonLocked", row.accountNonLocked());
+            generator.writeBooleanField("accountNonExpired", row.accountNonExpired());
+            generator.writeBooleanField("credentialsNonExpired", row.credentialsNonExpired());
+            generator.writeArrayFieldStart("roles");
+            for (Role role : row.roles()) {
+                generator.writeString(role.name());
+            }
+            generator.writeEndArray();
+            writeDateTime("createdAt", row.createdAt());
+            writeDateTime("lastLoginAt", row.lastLoginAt());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+
+        private void writeDateTime(String field, LocalDateTime value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value.toString());
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.crado00.custom_user_details.service;
 
+import com.crado00.custom_user_details.config.ExpiryProperties;
 import com.crado00.custom_user_details.dto.UserRegistrationDto;
 import com.crado00.custom_user_details.model.Role;
 import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.model.UserChangeType;
 import com.crado00.custom_user_details.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +12,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +30,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ExpiryProperties expiryProperties;
+    private final UserChangeOutbox userChangeOutbox;
 
     /**
      * 새 사용자 등록 (회원가입)
@@ -36,6 +42,8 @@ public class UserService {
         // 중복 확인
         validateUserUniqueness(registrationDto);
 
+        LocalDateTime now = LocalDateTime.now();
+
         // User Entity 생성
         User user = User.builder()
                 .username(registrationDto.getUsername())
@@ -47,15 +55,25 @@ public class UserService {
                 .accountNonExpired(true)
                 .accountNonLocked(true)
                 .credentialsNonExpired(true)
+                .accountExpiresAt(expiresAt(now, expiryProperties.getAccountValidity()))
+                .credentialsExpireAt(expiresAt(now, expiryProperties.getCredentialsValidity()))
                 .build();
 
         User savedUser = userRepository.save(user);
+        userChangeOutbox.record(savedUser, UserChangeType.REGISTERED);
 
         log.info("✅ 사용자 등록 완료: {} (ID: {})", savedUser.getUsername(), savedUser.getId());
 
         return savedUser;
     }
 
+    /**
+     * 유효 기간으로 만료 시각 계산 (기간 미설정 시 만료 없음)
+     */
+    private LocalDateTime expiresAt(LocalDateTime now, Duration validity) {
+        return validity != null ? now.plus(validity) : null;
+    }
+
     /**
      * 사용자명 중복 확인
      */
@@ -104,6 +122,7 @@ public class UserService {
         user.setAccountNonLocked(accountNonLocked);
 
         userRepository.save(user);
+        userChangeOutbox.record(user, UserChangeType.STATUS_CHANGED);
 
         log.info("🔧 사용자 상태 변경: {} - Enabled: {}, NonLocked: {}",
                 user.getUsername(), enabled, accountNonLocked);
@@ -118,6 +137,7 @@ public class UserService {
 
         user.addRole(role);
         userRepository.save(user);
+        userChangeOutbox.record(user, UserChangeType.ROLES_CHANGED);
 
         log.info("🛡️ 사용자 권한 추가: {} - 추가된 권한: {}", user.getUsername(), role);
     }
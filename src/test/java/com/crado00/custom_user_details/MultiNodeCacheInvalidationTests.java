@@ -0,0 +1,191 @@
+package com.crado00.custom_user_details;
+
+import com.crado00.custom_user_details.dto.UserRegistrationDto;
+import com.crado00.custom_user_details.model.Role;
+import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.repository.UserRepository;
+import com.crado00.custom_user_details.service.CustomUserDetailsService;
+import com.crado00.custom_user_details.service.UserCacheInvalidationPoller;
+import com.crado00.custom_user_details.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 하나의 H2 데이터베이스를 공유하는 두 애플리케이션 컨텍스트(노드)로
+ * 아웃박스 기반 캐시 무효화를 검증
+ */
+class MultiNodeCacheInvalidationTests {
+
+    private static final String DB_URL =
+            "jdbc:h2:mem:multinode;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        // 스키마는 노드 A가 생성하고 노드 B는 그대로 사용
+        nodeA = startNode("create");
+        nodeB = startNode("none");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void statusChangeOnNodeAInvalidatesCacheOnNodeB() {
+        CustomUserDetailsService detailsServiceB = nodeB.getBean(CustomUserDetailsService.class);
+        assertThat(detailsServiceB.loadUserByUsername("user").isEnabled()).isTrue();
+
+        User user = nodeA.getBean(UserRepository.class).findByUsernameIgnoreCase("user").orElseThrow();
+        nodeA.getBean(UserService.class).updateAccountStatus(user.getId(), false, true);
+
+        boolean invalidated = waitUntil(Duration.ofSeconds(5),
+                () -> !detailsServiceB.loadUserByUsername("user").isEnabled());
+        assertThat(invalidated).isTrue();
+
+        Duration lag = nodeB.getBean(UserCacheInvalidationPoller.class).getMaxLag();
+        assertThat(lag).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void roleChangeOnNodeAInvalidatesEmailKeyOnNodeB() {
+        CustomUserDetailsService detailsServiceB = nodeB.getBean(CustomUserDetailsService.class);
+        UserDetails before = detailsServiceB.loadUserByUsername("user@example.com");
+        assertThat(before.getAuthorities()).hasSize(1);
+
+        User user = nodeA.getBean(UserRepository.class).findByUsernameIgnoreCase("user").orElseThrow();
+        nodeA.getBean(UserService.class).addRoleToUser(user.getId(), Role.MANAGER);
+
+        boolean invalidated = waitUntil(Duration.ofSeconds(5),
+                () -> detailsServiceB.loadUserByUsername("user@example.com").getAuthorities().size() == 2);
+        assertThat(invalidated).isTrue();
+    }
+
+    @Test
+    void registrationClearsNegativeCacheImmediatelyOnSameNode() {
+        CustomUserDetailsService detailsServiceA = nodeA.getBean(CustomUserDetailsService.class);
+        assertThatThrownBy(() -> detailsServiceA.loadUserByUsername("newbie"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> detailsServiceA.loadUserByUsername("newbie@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        nodeA.getBean(UserService.class).registerUser(registration("newbie"));
+
+        // 네거티브 캐시 TTL을 기다리지 않고 바로 조회됨
+        assertThat(detailsServiceA.loadUserByUsername("newbie").getUsername()).isEqualTo("newbie");
+        assertThat(detailsServiceA.loadUserByUsername("newbie@example.com").getUsername()).isEqualTo("newbie");
+    }
+
+    @Test
+    void registrationOnNodeAClearsNegativeCacheOnNodeB() {
+        CustomUserDetailsService detailsServiceB = nodeB.getBean(CustomUserDetailsService.class);
+        assertThatThrownBy(() -> detailsServiceB.loadUserByUsername("newcomer"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        nodeA.getBean(UserService.class).registerUser(registration("newcomer"));
+
+        boolean visible = waitUntil(Duration.ofSeconds(5), () -> {
+            try {
+                return detailsServiceB.loadUserByUsername("newcomer") != null;
+            } catch (UsernameNotFoundException e) {
+                return false;
+            }
+        });
+        assertThat(visible).isTrue();
+    }
+
+    private UserRegistrationDto registration(String username) {
+        UserRegistrationDto dto = new UserRegistrationDto();
+        dto.setUsername(username);
+        dto.setPassword("password");
+        dto.setEmail(username + "@example.com");
+        dto.setFullName(username);
+        return dto;
+    }
+
+    @Test
+    void invalidationStaysTimelyWhileSweepIsRunning() {
+        // 노드 B는 청크 사이에 오래 대기하는 만료 스위프를 시작 직후 실행
+        nodeB.close();
+        nodeB = startNode("none",
+                "--app.expiry.sweep.enabled=true",
+                "--app.expiry.sweep.initial-delay=0s",
+                "--app.expiry.sweep.interval=PT1H",
+                "--app.expiry.sweep.chunk-size=1",
+                "--app.expiry.sweep.pause-between-chunks=2s");
+
+        CustomUserDetailsService detailsServiceB = nodeB.getBean(CustomUserDetailsService.class);
+        assertThat(detailsServiceB.loadUserByUsername("user").isEnabled()).isTrue();
+
+        User user = nodeA.getBean(UserRepository.class).findByUsernameIgnoreCase("user").orElseThrow();
+        nodeA.getBean(UserService.class).updateAccountStatus(user.getId(), false, true);
+
+        // 스위프(사용자 5명 × 2초)가 끝나기 전에 무효화되어야 함
+        boolean invalidated = waitUntil(Duration.ofSeconds(3),
+                () -> !detailsServiceB.loadUserByUsername("user").isEnabled());
+        assertThat(invalidated).isTrue();
+    }
+
+    private ConfigurableApplicationContext startNode(String ddlAuto, String... overrides) {
+        List<String> defaults = List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + DB_URL,
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--spring.jpa.show-sql=false",
+                "--app.expiry.sweep.enabled=false",
+                // 가입 후 즉시 조회되는 것이 TTL 만료 때문이 아님을 보장
+                "--app.user-cache.negative-ttl=PT1H",
+                "--app.user-cache.poll-interval=" + POLL_INTERVAL.toMillis() + "ms");
+
+        // 명령행 인자로 전달하여 application.yml 설정보다 우선 적용
+        // (같은 키를 두 번 주면 값이 합쳐지므로 재정의된 키의 기본값은 제외)
+        List<String> args = new ArrayList<>(List.of(overrides));
+        for (String arg : defaults) {
+            String key = arg.substring(0, arg.indexOf('=') + 1);
+            if (args.stream().noneMatch(override -> override.startsWith(key))) {
+                args.add(arg);
+            }
+        }
+        return new SpringApplicationBuilder(CustomUserDetailsApplication.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    private boolean waitUntil(Duration timeout, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
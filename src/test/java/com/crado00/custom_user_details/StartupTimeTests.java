@@ -0,0 +1,126 @@
+package com.crado00.custom_user_details;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 새 인스턴스의 첫 요청까지 걸리는 시간 측정
+ * 빌드된 부트 jar를 새 JVM으로 실행하고 (선택적으로 CDS 아카이브, AOT 사용) 첫 GET /login 응답까지 시간을 잼
+ * 실행: ./gradlew startupTime [-Pcds] [-Paot] [-PstartupBudget=PT0.8S]
+ * 예산(startup.budget)을 주지 않으면 측정값만 출력
+ */
+@Tag("startup")
+class StartupTimeTests {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeTests.class);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Test
+    void timeToFirstRequestOfFreshInstance() throws Exception {
+        String jarPath = System.getProperty("startup.jar");
+        assumeTrue(jarPath != null && new File(jarPath).isFile(), "부트 jar 없음 (./gradlew startupTime으로 실행)");
+
+        File jar = new File(jarPath);
+        int port = freePort();
+        Path output = Files.createTempFile("startup-time", ".log");
+
+        ProcessBuilder builder = new ProcessBuilder(command(jar, port))
+                .directory(jar.getParentFile())
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile());
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitFirstResponse(process, URI.create("http://localhost:" + port + "/login"), output);
+            Duration timeToFirstRequest = Duration.ofNanos(System.nanoTime() - start);
+
+            String budget = System.getProperty("startup.budget");
+            log.info("⏱️ 첫 요청까지: {}ms (CDS: {}, AOT: {}, 예산: {})",
+                    timeToFirstRequest.toMillis(), System.getProperty("startup.cds-archive") != null,
+                    Boolean.getBoolean("startup.aot"), budget != null ? budget : "없음");
+
+            if (budget != null) {
+                assertThat(timeToFirstRequest).isLessThan(Duration.parse(budget));
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        Files.deleteIfExists(output);
+    }
+
+    private List<String> command(File jar, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("startup.java",
+                ProcessHandle.current().info().command().orElse("java")));
+
+        String archive = System.getProperty("startup.cds-archive");
+        if (archive != null) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        if (Boolean.getBoolean("startup.aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-Dspring.profiles.active=fast-startup");
+        command.add("-jar");
+        command.add(jar.getName());
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    /**
+     * 200 응답을 받을 때까지 짧은 간격으로 재시도
+     */
+    private void awaitFirstResponse(Process process, URI uri, Path output) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new AssertionError("애플리케이션이 시작 중 종료됨 (로그: " + output + ")");
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError(TIMEOUT.toSeconds() + "초 안에 응답 없음 (로그: " + output + ")");
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
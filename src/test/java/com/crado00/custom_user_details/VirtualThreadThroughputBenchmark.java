@@ -0,0 +1,258 @@
+package com.crado00.custom_user_details;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드의 처리량 비교
+ * 두 모드 모두 같은 커넥션 풀 크기와 기본 Tomcat 설정으로 실행하여 스레드 모델의 차이만 측정
+ * (server.tomcat.threads.max는 플랫폼 스레드 모드에만 적용되므로 바꾸지 않고, 적용된 상한을 따로 출력)
+ * 가상 스레드 모드에서는 -Djdk.tracePinnedThreads 출력을 수집하여 캐리어 스레드 고정이 없는지 확인
+ * - 블로킹 JDBC: 커넥션을 잡은 채 DB 왕복 지연을 기다린 뒤 외부 호출 지연을 기다리는 요청
+ * - BCrypt 인증: 관리자 HTTP Basic 인증(요청마다 BCrypt 검증) 후 내보내기
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class VirtualThreadThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadThroughputBenchmark.class);
+
+    private static final int CONCURRENCY = 400;
+
+    // 두 모드에 공통으로 적용하는 커넥션 풀 크기
+    private static final int POOL_SIZE = 20;
+
+    // 커넥션을 잡고 기다리는 시간 (DB 왕복 모사) / 커넥션 없이 기다리는 시간 (외부 호출 모사)
+    // 풀 상한(20 / 2ms)이 기본 워커 200개의 상한(200 / 50ms)보다 높도록 설정
+    private static final Duration QUERY_LATENCY = Duration.ofMillis(2);
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofMillis(48);
+
+    // -Djdk.tracePinnedThreads 출력의 첫 줄(고정된 가상 스레드)과 모니터를 잡은 프레임 표시
+    private static final String PINNED_THREAD_PATTERN = "VirtualThread\\[#\\d+\\]/runnable@";
+    private static final String PINNED_MONITOR_MARKER = "<== monitors";
+
+    private static final String ADMIN_AUTHORIZATION = "Basic " + Base64.getEncoder()
+            .encodeToString("admin:admin123".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void compareBlockingJdbcThroughput() throws Exception {
+        compare(new Workload("블로킹 JDBC", "/benchmark/blocking", null, 500, 5_000));
+    }
+
+    @Test
+    void compareBcryptAuthenticationThroughput() throws Exception {
+        compare(new Workload("BCrypt 인증", "/admin/users/export?format=ndjson", ADMIN_AUTHORIZATION, 50, 400));
+    }
+
+    private void compare(Workload workload) throws Exception {
+        double platform = measure(workload, false);
+        double virtual = measure(workload, true);
+
+        log.info("📊 {} 처리량 - 플랫폼 스레드: {} req/s, 가상 스레드: {} req/s (x{})", workload.name(),
+                String.format("%.0f", platform), String.format("%.0f", virtual),
+                String.format("%.2f", virtual / platform));
+    }
+
+    private double measure(Workload workload, boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CustomUserDetailsApplication.class);
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+
+        // 명령행 인자로 전달하여 application.yml과 프로파일 설정보다 우선 적용
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.springframework.security=INFO",
+                "--logging.level.org.hibernate.SQL=INFO",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                "--app.seed.mode=precomputed",
+                "--app.expiry.sweep.enabled=false",
+                "--benchmark.blocking-endpoint=true");
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + workload.path());
+            HttpClient client = HttpClient.newBuilder().executor(clients).build();
+
+            log.info("🧵 {} / {} 모드: Tomcat 워커 상한 {}", workload.name(),
+                    virtualThreads ? "가상 스레드" : "플랫폼 스레드",
+                    virtualThreads ? "없음 (요청마다 가상 스레드)"
+                            : context.getBean(ServerProperties.class).getTomcat().getThreads().getMax());
+
+            // 고정 추적은 System.out으로 출력되므로 요청을 보내는 동안 복제하여 수집
+            PrintStream originalOut = System.out;
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(new TeeOutputStream(originalOut, captured), true));
+
+            int failures;
+            Duration elapsed;
+            try {
+                run(client, uri, workload.authorization(), clients, workload.warmupRequests());
+
+                long start = System.nanoTime();
+                failures = run(client, uri, workload.authorization(), clients, workload.measuredRequests());
+                elapsed = Duration.ofNanos(System.nanoTime() - start);
+            } finally {
+                System.setOut(originalOut);
+            }
+
+            double throughput = workload.measuredRequests() / (elapsed.toNanos() / 1_000_000_000.0);
+            log.info("⏱️ {} / {} 모드: {}건 {}ms, 실패 {}건", workload.name(),
+                    virtualThreads ? "가상 스레드" : "플랫폼 스레드",
+                    workload.measuredRequests(), elapsed.toMillis(), failures);
+
+            assertThat(failures).isZero();
+            if (virtualThreads) {
+                assertThat(captured.toString(StandardCharsets.UTF_8))
+                        .as("%s 경로에서 가상 스레드가 캐리어 스레드에 고정됨", workload.name())
+                        .doesNotContainPattern(PINNED_THREAD_PATTERN)
+                        .doesNotContain(PINNED_MONITOR_MARKER);
+            }
+            return throughput;
+        }
+    }
+
+    /**
+     * 최대 CONCURRENCY개의 요청을 동시에 유지하며 총 requests건 전송
+     *
+     * @return 실패(200 이외) 건수
+     */
+    private int run(HttpClient client, URI uri, String authorization, ExecutorService clients, int requests) {
+        HttpRequest.Builder template = HttpRequest.newBuilder(uri);
+        if (authorization != null) {
+            template.header("Authorization", authorization);
+        }
+        HttpRequest request = template.build();
+
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> calls = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            calls.add(CompletableFuture.runAsync(() -> {
+                inFlight.acquireUninterruptibly();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    inFlight.release();
+                }
+            }, clients));
+        }
+
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        return failures.get();
+    }
+
+    /**
+     * 두 스트림에 같은 내용을 쓰는 출력 스트림
+     */
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+
+    private record Workload(String name, String path, String authorization,
+                            int warmupRequests, int measuredRequests) {
+    }
+
+    /**
+     * 실제로 블로킹되는 요청 경로 (벤치마크 컨텍스트에서만 등록)
+     * 커넥션을 잡은 채 DB 왕복 지연만큼 기다린 뒤, 커넥션을 반납하고 외부 호출 지연만큼 더 기다림
+     */
+    @RestController
+    @ConditionalOnProperty(name = "benchmark.blocking-endpoint", havingValue = "true")
+    static class BlockingEndpoint {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        BlockingEndpoint(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        @GetMapping("/benchmark/blocking")
+        String blocking() {
+            Long users = transactionTemplate.execute(status -> {
+                Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+                sleep(QUERY_LATENCY);
+                return count;
+            });
+            sleep(DOWNSTREAM_LATENCY);
+            return String.valueOf(users);
+        }
+
+        private static void sleep(Duration duration) {
+            try {
+                Thread.sleep(duration.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.crado00.custom_user_details.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커넥션 허가의 획득/반납(닫기, 중복 닫기, 획득 실패)과 대기 시간 초과 검증
+ */
+class SemaphoreDataSourceTests {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+
+    private DataSource target;
+    private SemaphoreDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new SemaphoreDataSource(target, 1, ACQUIRE_TIMEOUT);
+    }
+
+    @Test
+    void closeReleasesPermit() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        connection.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        // 반납된 허가로 다시 획득 가능
+        dataSource.getConnection().close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void closingTwiceReleasesOnlyOnce() throws SQLException {
+        Connection first = dataSource.getConnection();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        // 이미 닫은 커넥션을 다시 닫아도 다른 커넥션의 허가를 반납하지 않음
+        first.close();
+        assertThat(dataSource.availablePermits()).isZero();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        second.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void failedGetConnectionReleasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLException.class)
+                .hasMessage("connection refused");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingPastTimeoutThrowsTransientException() throws SQLException {
+        Connection held = dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ACQUIRE_TIMEOUT);
+
+        // 대기에 실패해도 허가 수는 그대로
+        held.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(target, times(1)).getConnection();
+    }
+}
@@ -0,0 +1,88 @@
+package com.crado00.custom_user_details.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 사용자 생성의 결정성 검증 (같은 시드와 기준 시각이면 스레드 수와 관계없이 같은 행)
+ * BCrypt는 솔트가 매번 달라지므로 패스워드 인코더는 NoOp 사용
+ * 청크마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticUserGeneratorTests {
+
+    private static final int COUNT = 50;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        clear();
+    }
+
+    @Test
+    void sameRowsRegardlessOfThreadCount() throws Exception {
+        generate(1);
+        List<Map<String, Object>> singleThreadUsers = users();
+        List<Map<String, Object>> singleThreadRoles = roles();
+
+        clear();
+        generate(4);
+
+        assertThat(singleThreadUsers).hasSize(COUNT);
+        assertThat(users()).isEqualTo(singleThreadUsers);
+        assertThat(roles()).isEqualTo(singleThreadRoles);
+
+        // 기본 기준 시각은 고정값이므로 실행 날짜와 관계없이 그 이전으로 생성
+        Timestamp latest = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM users", Timestamp.class);
+        assertThat(latest.toLocalDateTime()).isBeforeOrEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @SuppressWarnings("deprecation")
+    private void generate(int threads) throws Exception {
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setCount(COUNT);
+        properties.setThreads(threads);
+        properties.setChunkSize(7);
+
+        new SyntheticUserGenerator(properties, jdbcTemplate, new TransactionTemplate(transactionManager),
+                NoOpPasswordEncoder.getInstance()).run();
+    }
+
+    private List<Map<String, Object>> users() {
+        return jdbcTemplate.queryForList("SELECT * FROM users ORDER BY id");
+    }
+
+    private List<Map<String, Object>> roles() {
+        return jdbcTemplate.queryForList("SELECT user_id, role FROM user_roles ORDER BY user_id, role");
+    }
+
+    private void clear() {
+        jdbcTemplate.update("DELETE FROM user_roles");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+}
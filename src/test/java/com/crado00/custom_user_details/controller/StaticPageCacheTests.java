@@ -0,0 +1,105 @@
+package com.crado00.custom_user_details.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인/회원가입 기본 화면의 사전 압축 캐시 검증
+ * (gzip/원본 선택, ETag 조건부 요청, 요청별 내용이 있을 때의 동적 렌더링)
+ */
+@SpringBootTest(properties = "app.expiry.sweep.enabled=false")
+@AutoConfigureMockMvc
+class StaticPageCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void servesGzipBodyWhenAccepted() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/login")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{32}-gz\"");
+        assertThat(gunzip(response.getContentAsByteArray())).contains("🔐 로그인");
+    }
+
+    @Test
+    void servesIdentityBodyWhenGzipNotAccepted() throws Exception {
+        assertIdentity(mockMvc.perform(get("/login")).andReturn().getResponse());
+        assertIdentity(mockMvc.perform(get("/login").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andReturn().getResponse());
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/register").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/register")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        // 인코딩이 다른 표현의 ETag로는 304가 되지 않음
+        mockMvc.perform(get("/register").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void queryStringFallsBackToDynamicRendering() throws Exception {
+        mockMvc.perform(get("/login").param("error", "").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(containsString("로그인에 실패했습니다")));
+    }
+
+    @Test
+    void flashMessageFallsBackToDynamicRendering() throws Exception {
+        mockMvc.perform(get("/login")
+                        .flashAttr("message", "회원가입이 완료되었습니다. 로그인해주세요.")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(containsString("회원가입이 완료되었습니다")));
+    }
+
+    private void assertIdentity(MockHttpServletResponse response) throws IOException {
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("🔐 로그인");
+    }
+
+    private String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.crado00.custom_user_details.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 내보내기 접근 제어 (관리자만 허용)
+ */
+@SpringBootTest(properties = "app.expiry.sweep.enabled=false")
+@AutoConfigureMockMvc
+class UserExportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void anonymousRequestIsRejected() throws Exception {
+        mockMvc.perform(get("/admin/users/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void nonAdminRequestIsForbidden() throws Exception {
+        mockMvc.perform(get("/admin/users/export").with(httpBasic("user", "user123")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminCanExport() throws Exception {
+        mockMvc.perform(get("/admin/users/export").param("format", "ndjson").with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"username\":\"admin\"")));
+    }
+}
@@ -0,0 +1,210 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.UserCacheProperties;
+import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.repository.UserRepository;
+import com.crado00.custom_user_details.security.CustomUserDetails;
+import com.crado00.custom_user_details.security.NegativeLookupCache;
+import com.crado00.custom_user_details.security.UserDetailsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시 조회 합치기, 네거티브 캐시 TTL, 조회 중 무효화(세대 검사) 검증
+ */
+class CustomUserDetailsServiceTests {
+
+    private static final int CALLERS = 8;
+
+    private UserRepository userRepository;
+    private UserCacheProperties properties;
+    private UserDetailsCache userDetailsCache;
+    private NegativeLookupCache negativeLookupCache;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        properties = new UserCacheProperties();
+        userDetailsCache = new UserDetailsCache(properties);
+        negativeLookupCache = new NegativeLookupCache(properties);
+        service = new CustomUserDetailsService(userRepository, userDetailsCache, negativeLookupCache);
+    }
+
+    @Test
+    void concurrentLookupsShareOneRepositoryCall() throws Exception {
+        // 캐시를 끄고 동시 조회 합치기만으로 중복 조회가 사라지는지 확인
+        properties.setEnabled(false);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByUsernameOrEmail("user")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(1L, "user"));
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<UserDetails>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> service.loadUserByUsername("user")));
+            }
+
+            // 첫 호출이 조회 중인 동안 나머지가 모두 그 결과를 기다릴 때까지 대기
+            CompletableFuture<?> inFlight = awaitInFlight("user");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (inFlight.getNumberOfDependents() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(inFlight.getNumberOfDependents()).isEqualTo(CALLERS - 1);
+
+            release.countDown();
+            for (Future<UserDetails> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("user");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(userRepository, times(1)).findByUsernameOrEmail("user");
+        assertThat(inFlightLookups()).isEmpty();
+    }
+
+    @Test
+    void unknownIdentifierIsServedFromNegativeCacheUntilTtlExpires() throws Exception {
+        properties.setNegativeTtl(Duration.ofMillis(200));
+        when(userRepository.findByUsernameOrEmail("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername(" ghost "))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(1)).findByUsernameOrEmail("ghost");
+
+        Thread.sleep(300);
+
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findByUsernameOrEmail("ghost");
+    }
+
+    @Test
+    void registrationDuringLookupIsNotRememberedAsMissing() {
+        // 조회가 끝나기 전에 같은 식별자로 가입이 커밋된 상황
+        when(userRepository.findByUsernameOrEmail("newbie")).thenAnswer(invocation -> {
+            negativeLookupCache.forget("newbie", "newbie@example.com");
+            return Optional.empty();
+        });
+
+        assertThatThrownBy(() -> service.loadUserByUsername("newbie"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(negativeLookupCache.isKnownMissing("newbie")).isFalse();
+    }
+
+    @Test
+    void invalidationDuringLookupIsNotCached() {
+        User user = user(7L, "user");
+        when(userRepository.findByUsernameOrEmail("user")).thenAnswer(invocation -> {
+            userDetailsCache.evictUsers(Set.of(user.getId()));
+            return Optional.of(user);
+        });
+
+        assertThat(service.loadUserByUsername("user").getUsername()).isEqualTo("user");
+        assertThat(userDetailsCache.get("user")).isNull();
+
+        service.loadUserByUsername("user");
+        verify(userRepository, times(2)).findByUsernameOrEmail("user");
+    }
+
+    @Test
+    void cachedEntryIsReloadedAfterMaxAge() throws Exception {
+        // 무효화 이벤트를 놓쳐도 maxAge 뒤에는 DB에서 다시 조회
+        properties.setMaxAge(Duration.ofMillis(200));
+        when(userRepository.findByUsernameOrEmail("user")).thenReturn(Optional.of(user(1L, "user")));
+
+        service.loadUserByUsername("user");
+        service.loadUserByUsername("user");
+        verify(userRepository, times(1)).findByUsernameOrEmail("user");
+
+        Thread.sleep(300);
+
+        service.loadUserByUsername("user");
+        verify(userRepository, times(2)).findByUsernameOrEmail("user");
+    }
+
+    @Test
+    void forgetClearsBothUsernameAndEmail() {
+        negativeLookupCache.markMissing("newbie", negativeLookupCache.generation());
+        negativeLookupCache.markMissing("newbie@example.com", negativeLookupCache.generation());
+
+        negativeLookupCache.forget("newbie", "newbie@example.com");
+
+        assertThat(negativeLookupCache.isKnownMissing("newbie")).isFalse();
+        assertThat(negativeLookupCache.isKnownMissing("newbie@example.com")).isFalse();
+        assertThat(negativeLookupCache.size()).isZero();
+    }
+
+    @Test
+    void fullNegativeCacheEvictsOldestEntry() {
+        properties.setNegativeMaxSize(2);
+
+        negativeLookupCache.markMissing("first", negativeLookupCache.generation());
+        negativeLookupCache.markMissing("second", negativeLookupCache.generation());
+        negativeLookupCache.markMissing("third", negativeLookupCache.generation());
+
+        assertThat(negativeLookupCache.isKnownMissing("first")).isFalse();
+        assertThat(negativeLookupCache.isKnownMissing("second")).isTrue();
+        assertThat(negativeLookupCache.isKnownMissing("third")).isTrue();
+        assertThat(negativeLookupCache.size()).isEqualTo(2);
+    }
+
+    private CompletableFuture<?> awaitInFlight(String identifier) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            CompletableFuture<?> inFlight = inFlightLookups().get(identifier);
+            if (inFlight != null) {
+                return inFlight;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("진행 중인 조회가 없습니다: " + identifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CompletableFuture<Optional<CustomUserDetails>>> inFlightLookups() {
+        return (Map<String, CompletableFuture<Optional<CustomUserDetails>>>)
+                ReflectionTestUtils.getField(service, "inFlightLookups");
+    }
+
+    private User user(Long id, String username) {
+        User user = User.builder()
+                .username(username)
+                .password("{noop}password")
+                .email(username + "@example.com")
+                .build();
+        user.setId(id);
+        return user;
+    }
+}
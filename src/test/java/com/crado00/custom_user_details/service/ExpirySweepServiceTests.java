@@ -0,0 +1,199 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.ExpiryProperties;
+import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.repository.SweepCheckpointRepository;
+import com.crado00.custom_user_details.repository.UserChangeEventRepository;
+import com.crado00.custom_user_details.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 스위퍼의 청크 순회, 체크포인트 재개, 테이블 끝에서의 순환 검증
+ * 청크마다 실제로 커밋되도록 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest(properties = {
+        "app.expiry.sweep.chunk-size=2",
+        "app.expiry.sweep.max-chunks-per-run=2",
+        "app.expiry.sweep.pause-between-chunks=0ms"
+})
+@Import({ExpirySweepService.class, ExpirySweepServiceTests.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpirySweepServiceTests {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(ExpiryProperties.class)
+    static class Config {
+    }
+
+    @Autowired
+    private ExpirySweepService sweepService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SweepCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private UserChangeEventRepository eventRepository;
+
+    @Autowired
+    private ExpiryProperties expiryProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private LocalDateTime past;
+    private LocalDateTime future;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        userRepository.deleteAll();
+
+        past = LocalDateTime.now().minusDays(1);
+        future = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void walksChunksResumesFromCheckpointAndWrapsAtEnd() {
+        User accountExpired = save("expired-account", past, null);
+        User notYetExpired = save("not-yet-expired", future, future);
+        User credentialsExpired = save("expired-credentials", null, past);
+        User neverExpires = save("never-expires", null, null);
+        User bothExpired = save("expired-both", past, past);
+
+        // 첫 실행: 청크 2개(사용자 4명)에서 멈추고 위치를 저장
+        sweepService.sweep();
+
+        assertThat(reload(accountExpired).getAccountNonExpired()).isFalse();
+        assertThat(reload(notYetExpired).getAccountNonExpired()).isTrue();
+        assertThat(reload(notYetExpired).getCredentialsNonExpired()).isTrue();
+        assertThat(reload(credentialsExpired).getCredentialsNonExpired()).isFalse();
+        assertThat(reload(credentialsExpired).getAccountNonExpired()).isTrue();
+        assertThat(reload(neverExpires).getAccountNonExpired()).isTrue();
+        assertThat(reload(bothExpired).getAccountNonExpired()).isTrue();
+        assertThat(lastUserId()).isEqualTo(neverExpires.getId());
+
+        // 재시작: 새 인스턴스가 저장된 체크포인트부터 이어서 처리하고 끝에 도달하면 0으로 되돌림
+        newInstance().sweep();
+
+        assertThat(reload(bothExpired).getAccountNonExpired()).isFalse();
+        assertThat(reload(bothExpired).getCredentialsNonExpired()).isFalse();
+        assertThat(lastUserId()).isZero();
+        assertThat(eventRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyChunkAtExactEndWrapsToStart() {
+        save("first", past, null);
+        User second = save("second", null, null);
+
+        expiryProperties.getSweep().setMaxChunksPerRun(1);
+        try {
+            sweepService.sweep();
+            assertThat(lastUserId()).isEqualTo(second.getId());
+
+            // 남은 사용자가 없으면 빈 청크로 끝을 감지
+            sweepService.sweep();
+            assertThat(lastUserId()).isZero();
+        } finally {
+            expiryProperties.getSweep().setMaxChunksPerRun(2);
+        }
+    }
+
+    @Test
+    void laterExpiryIsPickedUpOnNextPass() {
+        User user = save("later", future, null);
+
+        sweepService.sweep();
+        assertThat(reload(user).getAccountNonExpired()).isTrue();
+        assertThat(lastUserId()).isZero();
+
+        user.setAccountExpiresAt(past);
+        userRepository.save(user);
+
+        sweepService.sweep();
+        assertThat(reload(user).getAccountNonExpired()).isFalse();
+    }
+
+    @Test
+    void concurrentFirstRunsOnTwoNodesBothSucceed() throws Exception {
+        User expired = save("expired", past, null);
+        save("active", null, null);
+        save("other", null, null);
+
+        // 체크포인트 행이 없는 상태에서 두 노드가 동시에 첫 스위프를 실행
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService nodes = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> runs = List.of(
+                    nodes.submit(() -> awaitAndSweep(start, sweepService)),
+                    nodes.submit(() -> awaitAndSweep(start, newInstance())));
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+
+        assertThat(checkpointRepository.count()).isEqualTo(1);
+        assertThat(reload(expired).getAccountNonExpired()).isFalse();
+    }
+
+    private void awaitAndSweep(CountDownLatch start, ExpirySweepService service) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        service.sweep();
+    }
+
+    private User save(String username, LocalDateTime accountExpiresAt, LocalDateTime credentialsExpireAt) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}password")
+                .email(username + "@example.com")
+                .accountExpiresAt(accountExpiresAt)
+                .credentialsExpireAt(credentialsExpireAt)
+                .build());
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+
+    private Long lastUserId() {
+        return checkpointRepository.findById(ExpirySweepService.CHECKPOINT_NAME)
+                .orElseThrow()
+                .getLastUserId();
+    }
+
+    private ExpirySweepService newInstance() {
+        return new ExpirySweepService(userRepository, checkpointRepository, eventRepository,
+                expiryProperties, transactionTemplate);
+    }
+}
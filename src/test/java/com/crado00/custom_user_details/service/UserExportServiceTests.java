@@ -0,0 +1,171 @@
+package com.crado00.custom_user_details.service;
+
+import com.crado00.custom_user_details.config.UserExportProperties;
+import com.crado00.custom_user_details.dto.ExportFormat;
+import com.crado00.custom_user_details.dto.UserExportFilter;
+import com.crado00.custom_user_details.model.Role;
+import com.crado00.custom_user_details.model.User;
+import com.crado00.custom_user_details.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 내보내기의 필터, 권한 조인 합치기, CSV 이스케이프, NDJSON 형식 검증
+ * 내보내기는 별도 커넥션(StatelessSession)을 사용하므로 테스트 트랜잭션 없이 데이터를 커밋
+ */
+@DataJpaTest
+@Import({UserExportService.class, UserExportServiceTests.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserExportServiceTests {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(UserExportProperties.class)
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    private static final String TRICKY_NAME = "Kim, \"The\" Dev\nSecond line";
+
+    @Autowired
+    private UserExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        save("alice", TRICKY_NAME, true, true, Set.of(Role.ADMIN, Role.MANAGER, Role.USER),
+                LocalDateTime.of(2024, 1, 10, 9, 0));
+        save("bob", "Bob", false, true, Set.of(Role.USER), LocalDateTime.of(2024, 2, 10, 9, 0));
+        save("carol", "Carol", true, false, Set.of(Role.USER), LocalDateTime.of(2024, 3, 10, 9, 0));
+        save("dave", "Dave", true, true, Set.of(), LocalDateTime.of(2024, 4, 10, 9, 0));
+    }
+
+    @Test
+    void ndjsonWritesOneValidLinePerUserWithFoldedRoles() throws Exception {
+        List<JsonNode> rows = exportNdjson(new UserExportFilter());
+
+        assertThat(rows).extracting(row -> row.get("username").asText())
+                .containsExactly("alice", "bob", "carol", "dave");
+
+        JsonNode alice = rows.get(0);
+        assertThat(alice.get("fullName").asText()).isEqualTo(TRICKY_NAME);
+        assertThat(alice.get("roles")).extracting(JsonNode::asText)
+                .containsExactlyInAnyOrder("ADMIN", "MANAGER", "USER");
+        assertThat(alice.get("createdAt").asText()).isEqualTo("2024-01-10T09:00");
+        assertThat(alice.get("lastLoginAt").isNull()).isTrue();
+
+        assertThat(rows.get(3).get("roles")).isEmpty();
+    }
+
+    @Test
+    void filtersByEnabledLockedAndCreatedRange() throws Exception {
+        UserExportFilter enabled = new UserExportFilter();
+        enabled.setEnabled(true);
+        assertThat(usernames(enabled)).containsExactly("alice", "carol", "dave");
+
+        UserExportFilter locked = new UserExportFilter();
+        locked.setLocked(true);
+        assertThat(usernames(locked)).containsExactly("carol");
+
+        UserExportFilter enabledAndUnlocked = new UserExportFilter();
+        enabledAndUnlocked.setEnabled(true);
+        enabledAndUnlocked.setLocked(false);
+        assertThat(usernames(enabledAndUnlocked)).containsExactly("alice", "dave");
+
+        // createdFrom 포함, createdTo 제외
+        UserExportFilter range = new UserExportFilter();
+        range.setCreatedFrom(LocalDateTime.of(2024, 2, 10, 9, 0));
+        range.setCreatedTo(LocalDateTime.of(2024, 4, 10, 9, 0));
+        assertThat(usernames(range)).containsExactly("bob", "carol");
+    }
+
+    @Test
+    void csvQuotesSpecialCharactersAndFoldsRoles() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(new UserExportFilter(), ExportFormat.CSV, out);
+        String csv = out.toString(StandardCharsets.UTF_8);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(csv).startsWith("id,username,email,fullName,enabled,accountNonLocked,"
+                + "accountNonExpired,credentialsNonExpired,roles,createdAt,lastLoginAt\n");
+        assertThat(csv).contains(",alice,alice@example.com,\"Kim, \"\"The\"\" Dev\nSecond line\","
+                + "true,true,true,true,USER|ADMIN|MANAGER,2024-01-10T09:00,\n");
+        assertThat(csv).contains(",dave,dave@example.com,Dave,true,true,true,true,,2024-04-10T09:00,\n");
+
+        // 헤더 1줄 + 사용자 4명 + 이름 안의 줄바꿈 1개
+        assertThat(csv.split("\n", -1)).hasSize(4 + 1 + 1 + 1);
+    }
+
+    private List<String> usernames(UserExportFilter filter) throws IOException {
+        return exportNdjson(filter).stream().map(row -> row.get("username").asText()).toList();
+    }
+
+    private List<JsonNode> exportNdjson(UserExportFilter filter) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(filter, ExportFormat.NDJSON, out);
+
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        List<JsonNode> rows = new ArrayList<>();
+        if (!ndjson.isEmpty()) {
+            assertThat(ndjson).endsWith("\n");
+            for (String line : ndjson.split("\n")) {
+                JsonNode row = objectMapper.readTree(line);
+                assertThat(row.isObject()).isTrue();
+                rows.add(row);
+            }
+        }
+        assertThat(rows).hasSize((int) count);
+        return rows;
+    }
+
+    private void save(String username, String fullName, boolean enabled, boolean accountNonLocked,
+                      Set<Role> roles, LocalDateTime createdAt) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}password")
+                .email(username + "@example.com")
+                .fullName(fullName)
+                .enabled(enabled)
+                .accountNonLocked(accountNonLocked)
+                .roles(roles)
+                .build());
+
+        // 가입 시각은 @PrePersist가 현재 시각으로 정하므로 저장 후 직접 변경
+        new JdbcTemplate(dataSource).update("UPDATE users SET created_at = ? WHERE id = ?", createdAt, user.getId());
+    }
+}